@@ -24,6 +24,8 @@ package io.sarl.lang.core;
 import java.lang.reflect.Constructor;
 import java.security.InvalidParameterException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import com.google.common.reflect.TypeToken;
 import org.eclipse.xtext.xbase.lib.Inline;
@@ -39,10 +41,36 @@ import org.eclipse.xtext.xbase.lib.Pure;
  */
 public abstract class AbstractSkillContainer extends AgentProtectedAPIObject implements Identifiable {
 
+	/** Initial number of slots in the skill cache of a container. It must be a power of two.
+	 */
+	private static final int INITIAL_SKILL_CACHE_SIZE = 8;
+
+	/** Maximal number of slots in the skill cache of a container. It must be a power of two.
+	 * When all the slots are used, the references to the skills of the other capacities are
+	 * always retrieved from the skill repository.
+	 */
+	private static final int MAX_SKILL_CACHE_SIZE = 64;
+
+	private static final AtomicReferenceArray<CachedSkill> EMPTY_SKILL_CACHE = new AtomicReferenceArray<>(0);
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<AbstractSkillContainer, AtomicReferenceArray> SKILL_CACHE_UPDATER =
+			AtomicReferenceFieldUpdater.newUpdater(AbstractSkillContainer.class, AtomicReferenceArray.class, "skillCache"); //$NON-NLS-1$
+
 	/** Skill repository.
 	 */
 	private final ConcurrentHashMap<Class<? extends Capacity>, AtomicSkillReference> skillRepository = new ConcurrentHashMap<>();
 
+	/** Cache of the skill references. It is a small open-addressing hash table that is indexed
+	 * by the capacity types. The slot of a capacity is never reused for another capacity; a removed
+	 * reference is replaced by an entry without reference.
+	 * The skill repository remains the reference; the cache is only a shortcut to it.
+	 * A cached reference is used only if it is not cleared. Since the references that are
+	 * removed or replaced in the repository are always cleared, a stale cache entry is
+	 * never replied.
+	 */
+	private volatile AtomicReferenceArray<CachedSkill> skillCache = EMPTY_SKILL_CACHE;
+
 	private DynamicSkillProvider skillProvider;
 
 	/**
@@ -155,6 +183,7 @@ public abstract class AbstractSkillContainer extends AgentProtectedAPIObject imp
 			if (oldReference != null) {
 				oldReference.clear();
 			}
+			uncacheSkill(capacity);
 		}
 		if (firstRef == null) {
 			return newReference;
@@ -190,19 +219,163 @@ public abstract class AbstractSkillContainer extends AgentProtectedAPIObject imp
 	@Override
 	@Pure
 	protected AtomicSkillReference $getSkill(Class<? extends Capacity> capacity) {
-		// CAUTION: We must create the default skill in a thread-safe process.
-		// To do so, the creation must be done into the ConcurrentHahMap function, and not
-		// into the code of the AbstractSkillContainer.
-		// That's why the creation of the default skill is done into the lambda that
-		// is provided to compute().
-		// The call to compute() is mandatory because the values' type is AtomicSkillReference.
-		// This reference may have an internal reference equal to null, and it must considered
-		// as a null value in the map.
-		// The call to compute() may be less efficient because there is internal calls that equivalent
-		// to get() and put().
-		return $getSkillRepository().compute(capacity, (capacityType, oldSkillReferenceValue) -> {
-			return createSkillDynamically(capacityType, oldSkillReferenceValue);
-		});
+		// Fast path: the reference is in the cache of the container.
+		final AtomicSkillReference cachedReference = getCachedSkill(capacity);
+		if (cachedReference != null) {
+			return cachedReference;
+		}
+		// Second path: the reference is in the skill repository. The read-only get() does
+		// not lock the map's bin, in opposite to compute().
+		AtomicSkillReference reference = $getSkillRepository().get(capacity);
+		if (reference == null || reference.get() == null) {
+			// CAUTION: We must create the default skill in a thread-safe process.
+			// To do so, the creation must be done into the ConcurrentHahMap function, and not
+			// into the code of the AbstractSkillContainer.
+			// That's why the creation of the default skill is done into the lambda that
+			// is provided to compute().
+			// The call to compute() is mandatory because the values' type is AtomicSkillReference.
+			// This reference may have an internal reference equal to null, and it must considered
+			// as a null value in the map.
+			reference = $getSkillRepository().compute(capacity, (capacityType, oldSkillReferenceValue) -> {
+				return createSkillDynamically(capacityType, oldSkillReferenceValue);
+			});
+		}
+		cacheSkill(capacity, reference);
+		return reference;
+	}
+
+	private static int cacheIndex(Class<? extends Capacity> capacity, int mask) {
+		return System.identityHashCode(capacity) & mask;
+	}
+
+	/** Replies the reference that is stored in the skill cache for the given capacity.
+	 *
+	 * @param capacity the capacity.
+	 * @return the reference, or {@code null} if the capacity is not cached or its reference is cleared.
+	 */
+	@Pure
+	private AtomicSkillReference getCachedSkill(Class<? extends Capacity> capacity) {
+		final AtomicReferenceArray<CachedSkill> cache = this.skillCache;
+		final int length = cache.length();
+		if (length > 0) {
+			final int mask = length - 1;
+			int index = cacheIndex(capacity, mask);
+			for (int i = 0; i < length; ++i) {
+				final CachedSkill entry = cache.get(index);
+				if (entry == null) {
+					return null;
+				}
+				if (entry.capacity == capacity) {
+					final AtomicSkillReference reference = entry.reference;
+					if (reference != null && reference.get() != null) {
+						return reference;
+					}
+					return null;
+				}
+				index = (index + 1) & mask;
+			}
+		}
+		return null;
+	}
+
+	/** Put the given reference into the skill cache.
+	 *
+	 * <p>The slots of the cache are changed with compare-and-set operations. When the cache is grown,
+	 * the new cache is published with a compare-and-set operation, and the caller of this function
+	 * checks after its change if the cache was replaced; if it is the case, the change is done again into the
+	 * new cache. In this way, a concurrent removal is never lost.
+	 *
+	 * @param capacity the capacity.
+	 * @param reference the reference to the skill, or {@code null} for removing the cached reference.
+	 */
+	private void cacheSkill(Class<? extends Capacity> capacity, AtomicSkillReference reference) {
+		final CachedSkill newEntry = new CachedSkill(capacity, reference);
+		AtomicReferenceArray<CachedSkill> cache = this.skillCache;
+		while (true) {
+			final int length = cache.length();
+			boolean full = true;
+			if (length > 0) {
+				final int mask = length - 1;
+				int index = cacheIndex(capacity, mask);
+				int i = 0;
+				while (i < length) {
+					final CachedSkill entry = cache.get(index);
+					if (entry == null) {
+						if (reference == null) {
+							// The capacity is not cached
+							return;
+						}
+						if (cache.compareAndSet(index, null, newEntry)) {
+							full = false;
+							i = length;
+						}
+						// On failure, the same slot is tested again
+					} else if (entry.capacity == capacity) {
+						if (cache.compareAndSet(index, entry, newEntry)) {
+							full = false;
+							i = length;
+						}
+						// On failure, the same slot is tested again
+					} else {
+						index = (index + 1) & mask;
+						++i;
+					}
+				}
+			}
+			if (full) {
+				if (reference == null || length >= MAX_SKILL_CACHE_SIZE) {
+					return;
+				}
+				growSkillCache(cache);
+			}
+			// Recheck that the cache was not replaced by a concurrent growth after the change.
+			final AtomicReferenceArray<CachedSkill> currentCache = this.skillCache;
+			if (!full && currentCache == cache) {
+				return;
+			}
+			cache = currentCache;
+		}
+	}
+
+	/** Replace the given skill cache by a bigger cache.
+	 *
+	 * <p>After the publication of the new cache, the copied entries are checked against the
+	 * skill repository in order to forget the references that were removed during the copy.
+	 *
+	 * @param cache the cache to replace.
+	 */
+	private void growSkillCache(AtomicReferenceArray<CachedSkill> cache) {
+		final int length = cache.length();
+		final int newLength = length == 0 ? INITIAL_SKILL_CACHE_SIZE : length * 2;
+		final int mask = newLength - 1;
+		final AtomicReferenceArray<CachedSkill> newCache = new AtomicReferenceArray<>(newLength);
+		for (int i = 0; i < length; ++i) {
+			final CachedSkill entry = cache.get(i);
+			if (entry != null && entry.reference != null) {
+				int index = cacheIndex(entry.capacity, mask);
+				while (newCache.get(index) != null) {
+					index = (index + 1) & mask;
+				}
+				newCache.set(index, entry);
+			}
+		}
+		if (SKILL_CACHE_UPDATER.compareAndSet(this, cache, newCache)) {
+			final ConcurrentHashMap<Class<? extends Capacity>, AtomicSkillReference> repository = $getSkillRepository();
+			for (int i = 0; i < newLength; ++i) {
+				final CachedSkill entry = newCache.get(i);
+				if (entry != null && entry.reference != null && repository.get(entry.capacity) != entry.reference) {
+					newCache.compareAndSet(i, entry, new CachedSkill(entry.capacity, null));
+				}
+			}
+		}
+	}
+
+	/** Remove the given capacity from the skill cache.
+	 *
+	 * @param capacity the capacity to remove.
+	 */
+	private void uncacheSkill(Class<? extends Capacity> capacity) {
+		cacheSkill(capacity, null);
 	}
 
 	private AtomicSkillReference createSkillDynamically(Class<? extends Capacity> capacity, AtomicSkillReference existingSkill) {
@@ -257,6 +430,7 @@ public abstract class AbstractSkillContainer extends AgentProtectedAPIObject imp
 	protected <S extends Capacity> S clearSkill(Class<S> capacity) {
 		assert capacity != null;
 		final AtomicSkillReference reference = $getSkillRepository().remove(capacity);
+		uncacheSkill(capacity);
 		if (reference != null) {
 			final Skill skill = reference.clear();
 			if (skill != null) {
@@ -272,4 +446,25 @@ public abstract class AbstractSkillContainer extends AgentProtectedAPIObject imp
 		setSkill(skill, capacity);
 	}
 
+	/** Entry of the skill cache.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.12
+	 */
+	private static final class CachedSkill {
+
+		final Class<? extends Capacity> capacity;
+
+		final AtomicSkillReference reference;
+
+		CachedSkill(Class<? extends Capacity> capacity, AtomicSkillReference reference) {
+			this.capacity = capacity;
+			this.reference = reference;
+		}
+
+	}
+
 }
@@ -0,0 +1,113 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/**
+ * Jump table that is used by the generated implementations of
+ * {@link IBehaviorGuardEvaluatorReceiver#$evaluateBehaviorGuards(Object, java.util.Collection)}
+ * for selecting the guard evaluators to be run for a given event.
+ *
+ * <p>The table is built from the list of the event types for which the receiver has behavior units.
+ * For each concrete type of event, the table replies the indexes of the event types of which the event is
+ * an instance. The indexes are computed once per concrete event type, and cached with a {@link ClassValue}.
+ * Consequently, the dispatching of an event does not need a sequence of {@code instanceof} tests.
+ *
+ * <p>This class is part of the private API of the library. It is not supposed to be used by
+ * the SARL developers.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+public final class BehaviorGuardDispatchTable {
+
+	private static final int[] EMPTY_INDEXES = new int[0];
+
+	private final Class<?>[] eventTypes;
+
+	private final ClassValue<int[]> indexes = new ClassValue<int[]>() {
+		@Override
+		protected int[] computeValue(Class<?> type) {
+			return computeIndexes(type);
+		}
+	};
+
+	/** Constructor.
+	 *
+	 * @param eventTypes the types of the events that are supported by the receiver. The order of
+	 *     the types determines the indexes that are replied by {@link #getEventTypeIndexes(Object)}.
+	 */
+	public BehaviorGuardDispatchTable(Class<?>... eventTypes) {
+		assert eventTypes != null;
+		this.eventTypes = eventTypes.clone();
+	}
+
+	/** Replies the number of event types in the table.
+	 *
+	 * @return the number of event types.
+	 */
+	@Pure
+	public int size() {
+		return this.eventTypes.length;
+	}
+
+	/** Replies the indexes of the event types of which the given event is an instance.
+	 * The indexes are replied in increasing order.
+	 *
+	 * <p>The replied array is shared and must not be changed.
+	 *
+	 * @param event the event.
+	 * @return the indexes of the matching event types, never {@code null}.
+	 */
+	@Pure
+	public int[] getEventTypeIndexes(Object event) {
+		if (event == null) {
+			return EMPTY_INDEXES;
+		}
+		return this.indexes.get(event.getClass());
+	}
+
+	private int[] computeIndexes(Class<?> type) {
+		final int[] buffer = new int[this.eventTypes.length];
+		int size = 0;
+		for (int i = 0; i < this.eventTypes.length; ++i) {
+			if (this.eventTypes[i].isAssignableFrom(type)) {
+				buffer[size] = i;
+				++size;
+			}
+		}
+		if (size == 0) {
+			return EMPTY_INDEXES;
+		}
+		if (size == buffer.length) {
+			return buffer;
+		}
+		final int[] result = new int[size];
+		System.arraycopy(buffer, 0, result, 0, size);
+		return result;
+	}
+
+}
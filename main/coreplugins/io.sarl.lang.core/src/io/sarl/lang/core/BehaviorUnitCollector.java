@@ -0,0 +1,77 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+import java.util.Collection;
+
+/**
+ * Collection of the behavior units to be run that accepts the behavior unit handlers directly.
+ *
+ * <p>The collections that are passed to
+ * {@link IBehaviorGuardEvaluatorReceiver#$evaluateBehaviorGuards(Object, java.util.Collection)}
+ * may implement this interface. In this case, the generated guard evaluators give the pre-built
+ * handler of the behavior unit, the receiver and the occurrence to the collection, and no
+ * {@link Runnable} is allocated for each matching behavior unit.
+ *
+ * <p>This interface is part of the private API of the library. It is not supposed to be used by
+ * the SARL developers.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ * @see BehaviorUnitHandler
+ */
+public interface BehaviorUnitCollector {
+
+	/** Add a behavior unit to be run.
+	 *
+	 * @param receiver the object that is declaring the behavior unit.
+	 * @param occurrence the event occurrence to be given to the behavior unit.
+	 * @param handler the handler of the behavior unit.
+	 */
+	void addBehaviorUnit(Object receiver, Object occurrence, BehaviorUnitHandler handler);
+
+	/** Add a behavior unit into the given collection of callbacks.
+	 *
+	 * <p>If the collection is a {@link BehaviorUnitCollector}, the handler is given as-is to the
+	 * collection. Otherwise, the handler is wrapped into a {@link Runnable}.
+	 *
+	 * <p>This function is invoked by the generated guard evaluators.
+	 *
+	 * @param callbacks the collection of the callbacks to be filled.
+	 * @param receiver the object that is declaring the behavior unit.
+	 * @param occurrence the event occurrence to be given to the behavior unit.
+	 * @param handler the handler of the behavior unit.
+	 */
+	static void add(Collection<Runnable> callbacks, Object receiver, Object occurrence, BehaviorUnitHandler handler) {
+		assert callbacks != null;
+		assert handler != null;
+		if (callbacks instanceof BehaviorUnitCollector) {
+			((BehaviorUnitCollector) callbacks).addBehaviorUnit(receiver, occurrence, handler);
+		} else {
+			callbacks.add(() -> handler.handle(receiver, occurrence));
+		}
+	}
+
+}
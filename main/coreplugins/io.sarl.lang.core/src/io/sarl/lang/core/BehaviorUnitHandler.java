@@ -0,0 +1,52 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+/**
+ * Handler of a behavior unit that is reported by the generated implementations of
+ * {@link IBehaviorGuardEvaluatorReceiver#$evaluateBehaviorGuards(Object, java.util.Collection)}.
+ *
+ * <p>The generated handlers do not capture any value. They receive the object that is declaring
+ * the behavior unit and the event occurrence as arguments. Consequently, a single instance of
+ * handler is created per behavior unit, and it is shared by all the events and all the receivers.
+ *
+ * <p>This interface is part of the private API of the library. It is not supposed to be used by
+ * the SARL developers.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ * @see BehaviorUnitCollector
+ */
+@FunctionalInterface
+public interface BehaviorUnitHandler {
+
+	/** Run the behavior unit.
+	 *
+	 * @param receiver the object that is declaring the behavior unit.
+	 * @param occurrence the event occurrence.
+	 */
+	void handle(Object receiver, Object occurrence);
+
+}
@@ -0,0 +1,63 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Annotation for marking an event type as conflatable.
+ *
+ * <p>This annotation should be associated to an {@code Event}. When an event of the annotated
+ * type is received by an agent, and an event of the same type with the same conflation key is still
+ * waiting for its delivery to this agent, the SRE could replace the waiting event by the received
+ * event instead of running the event handlers for both of them. Only the latest event is then
+ * delivered.
+ *
+ * <p>By default, the conflation key is the source of the event. If {@link #key()} is provided,
+ * the conflation key is the value of the field with the given name in the event.
+ *
+ * <p>This annotation is intended to the high-frequency events for which only the latest
+ * occurrence matters, e.g. perceptions in simulations. It is not inherited by the sub-types of
+ * the annotated event type.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConflatableEvent {
+
+	/** The name of the field of the event that contains the conflation key.
+	 * If it is empty, the conflation key is the source of the event.
+	 *
+	 * @return the name of the field, or the empty string.
+	 */
+	String key() default "";
+
+}
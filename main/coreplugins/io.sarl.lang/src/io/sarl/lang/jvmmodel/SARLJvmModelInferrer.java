@@ -153,6 +153,8 @@ import io.sarl.lang.core.Agent;
 import io.sarl.lang.core.AgentTrait;
 import io.sarl.lang.core.AtomicSkillReference;
 import io.sarl.lang.core.Behavior;
+import io.sarl.lang.core.BehaviorGuardDispatchTable;
+import io.sarl.lang.core.BehaviorUnitCollector;
 import io.sarl.lang.core.Capacity;
 import io.sarl.lang.core.Event;
 import io.sarl.lang.core.Skill;
@@ -214,6 +216,10 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 
 	private static final String RUNNABLE_COLLECTION = Utils.createNameForHiddenLocalVariable("runnableCollection"); //$NON-NLS-1$
 
+	private static final String RECEIVER_PARAMETER = Utils.createNameForHiddenLocalVariable("receiver"); //$NON-NLS-1$
+
+	private static final String OCCURRENCE_PARAMETER = Utils.createNameForHiddenLocalVariable("occurrence"); //$NON-NLS-1$
+
 	private static final String HASHCODE_FUNCTION_NAME = "hashCode"; //$NON-NLS-1$
 
 	private static final String EQUALS_FUNCTION_NAME = "equals"; //$NON-NLS-1$
@@ -222,6 +228,14 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 
 	private static final String SERIAL_FIELD_NAME = "serialVersionUID"; //$NON-NLS-1$
 
+	private static final String GUARD_DISPATCH_TABLE_FIELD_NAME = Utils.HIDDEN_MEMBER_CHARACTER
+			+ "GUARD_DISPATCH_TABLE"; //$NON-NLS-1$
+
+	/** Minimal number of event types for which the guard evaluators are selected with a
+	 * {@link BehaviorGuardDispatchTable} instead of a sequence of {@code instanceof} tests.
+	 */
+	private static final int GUARD_DISPATCH_TABLE_THRESHOLD = 4;
+
 	/** See the filter in the super class.
 	 */
 	private static final Predicate<JvmAnnotationReference> ANNOTATION_TRANSLATION_FILTER = annotation -> {
@@ -1981,12 +1995,7 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 
 			if (isTrueGuard) {
 				evaluators.add(it -> {
-					it.append(RUNNABLE_COLLECTION);
-					it.append(".add(() -> "); //$NON-NLS-1$
-					it.append(bodyMethodName);
-					it.append("("); //$NON-NLS-1$
-					it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
-					it.append("));"); //$NON-NLS-1$
+					appendBehaviorUnitHandler(it, container, source.getName(), bodyMethodName);
 				});
 			} else {
 				assert guard != null;
@@ -2045,12 +2054,7 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 					it.append(")) {"); //$NON-NLS-1$
 					it.increaseIndentation();
 					it.newLine();
-					it.append(RUNNABLE_COLLECTION);
-					it.append(".add(() -> "); //$NON-NLS-1$
-					it.append(bodyMethodName);
-					it.append("("); //$NON-NLS-1$
-					it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
-					it.append("));"); //$NON-NLS-1$
+					appendBehaviorUnitHandler(it, container, source.getName(), bodyMethodName);
 					it.decreaseIndentation();
 					it.newLine();
 					it.append("}"); //$NON-NLS-1$
@@ -2587,30 +2591,117 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 
 		container.getMembers().add(evaluateOperation);
 
+		if (guardDefs.size() >= GUARD_DISPATCH_TABLE_THRESHOLD) {
+			appendEventGuardDispatchTable(guardDefs, container, evaluateOperation, context);
+		} else {
+			setBody(evaluateOperation, it -> {
+				it.append("super.$evaluateBehaviorGuards(event, callbacks);"); //$NON-NLS-1$
+				for (final Entry<JvmTypeReference, Set<String>> entry : guardDefs.entrySet()) {
+					it.newLine();
+					it.append("if (event instanceof "); //$NON-NLS-1$
+					it.append(entry.getKey().getType());
+					it.append(") {"); //$NON-NLS-1$
+					it.increaseIndentation().newLine();
+					appendEventGuardEvaluatorCalls(it, entry);
+					it.decreaseIndentation().newLine();
+					it.append("}"); //$NON-NLS-1$
+				}
+			});
+		}
+	}
+
+	/** Append the static dispatch table that is used by the polymorphic method for selecting
+	 * the guard evaluators in constant time, and generate the body of the polymorphic method.
+	 *
+	 * <p>The table replies, for the concrete type of the event, the indexes of the supported event
+	 * types of which the event is an instance. The polymorphic method switches on these indexes.
+	 *
+	 * @param guardDefs the definition of the guards.
+	 * @param container the receiver of the generated components.
+	 * @param evaluateOperation the polymorphic method to fill up.
+	 * @param context the generation context.
+	 * @since 0.12
+	 */
+	protected void appendEventGuardDispatchTable(Map<JvmTypeReference, Set<String>> guardDefs,
+			JvmGenericType container, JvmOperation evaluateOperation, GenerationContext context) {
+		final JvmField field = this.typesFactory.createJvmField();
+		field.setSimpleName(GUARD_DISPATCH_TABLE_FIELD_NAME);
+		field.setVisibility(JvmVisibility.PRIVATE);
+		field.setStatic(true);
+		field.setTransient(false);
+		field.setVolatile(false);
+		field.setFinal(true);
+		// The field must be declared before the function that is using it.
+		final int index = container.getMembers().indexOf(evaluateOperation);
+		container.getMembers().add(index, field);
+		final JvmTypeReference tableType = this._typeReferenceBuilder.typeRef(BehaviorGuardDispatchTable.class);
+		field.setType(this.typeBuilder.cloneWithProxies(tableType));
+		this.typeBuilder.setInitializer(field, it -> {
+			it.append("new "); //$NON-NLS-1$
+			it.append(tableType.getType());
+			it.append("("); //$NON-NLS-1$
+			boolean first = true;
+			for (final JvmTypeReference type : guardDefs.keySet()) {
+				if (first) {
+					first = false;
+				} else {
+					it.append(", "); //$NON-NLS-1$
+				}
+				it.append(type.getType());
+				it.append(".class"); //$NON-NLS-1$
+			}
+			it.append(")"); //$NON-NLS-1$
+		});
+		appendGeneratedAnnotation(field, context);
+		this.readAndWriteTracking.markInitialized(field, null);
+
 		setBody(evaluateOperation, it -> {
 			it.append("super.$evaluateBehaviorGuards(event, callbacks);"); //$NON-NLS-1$
+			it.newLine();
+			it.append("for (final int index : "); //$NON-NLS-1$
+			it.append(GUARD_DISPATCH_TABLE_FIELD_NAME);
+			it.append(".getEventTypeIndexes(event)) {"); //$NON-NLS-1$
+			it.increaseIndentation().newLine();
+			it.append("switch (index) {"); //$NON-NLS-1$
+			it.increaseIndentation();
+			int caseIndex = 0;
 			for (final Entry<JvmTypeReference, Set<String>> entry : guardDefs.entrySet()) {
 				it.newLine();
-				it.append("if (event instanceof "); //$NON-NLS-1$
-				it.append(entry.getKey().getType());
-				it.append(") {"); //$NON-NLS-1$
+				it.append("case ").append(Integer.toString(caseIndex)).append(": {"); //$NON-NLS-1$ //$NON-NLS-2$
 				it.increaseIndentation().newLine();
-				it.append("final "); //$NON-NLS-1$
-				it.append(entry.getKey().getType());
-				it.append(" occurrence = ("); //$NON-NLS-1$
-				it.append(entry.getKey().getType());
-				it.append(") event;"); //$NON-NLS-1$
-				for (final String meth : entry.getValue()) {
-					it.newLine();
-					it.append(meth);
-					it.append("(occurrence, callbacks);"); //$NON-NLS-1$
-				}
+				appendEventGuardEvaluatorCalls(it, entry);
+				it.newLine();
+				it.append("break;"); //$NON-NLS-1$
 				it.decreaseIndentation().newLine();
 				it.append("}"); //$NON-NLS-1$
+				++caseIndex;
 			}
+			it.decreaseIndentation().newLine();
+			it.append("}"); //$NON-NLS-1$
+			it.decreaseIndentation().newLine();
+			it.append("}"); //$NON-NLS-1$
 		});
 	}
 
+	/** Append the calls to the guard evaluators that are associated to the given event type.
+	 * The event is casted to the event type and stored into the local variable {@code occurrence}.
+	 *
+	 * @param it the receiver of the generated code.
+	 * @param guardDef the definition of the guard evaluators for the event type.
+	 */
+	private static void appendEventGuardEvaluatorCalls(ITreeAppendable it, Entry<JvmTypeReference, Set<String>> guardDef) {
+		it.append("final "); //$NON-NLS-1$
+		it.append(guardDef.getKey().getType());
+		it.append(" occurrence = ("); //$NON-NLS-1$
+		it.append(guardDef.getKey().getType());
+		it.append(") event;"); //$NON-NLS-1$
+		for (final String meth : guardDef.getValue()) {
+			it.newLine();
+			it.append(meth);
+			it.append("(occurrence, callbacks);"); //$NON-NLS-1$
+		}
+	}
+
 	/** Append the guard evaluators for the reflection-based method.
 	 *
 	 * @param evaluators the guard evaluators to generate.
@@ -2681,6 +2772,42 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 		return behName;
 	}
 
+	/** Append the code for adding the handler of a behavior unit into the collection of the callbacks.
+	 *
+	 * <p>The handler is a lambda that does not capture any value. It is therefore instanced once by the
+	 * Java virtual machine, and no object is allocated for each event when the collection of the callbacks
+	 * is a {@link BehaviorUnitCollector}.
+	 *
+	 * @param it the receiver of the generated code.
+	 * @param container the type that is declaring the behavior unit.
+	 * @param eventType the type of the event that is supported by the behavior unit.
+	 * @param bodyMethodName the name of the function that contains the body of the behavior unit.
+	 * @since 0.12
+	 */
+	protected void appendBehaviorUnitHandler(ITreeAppendable it, JvmGenericType container,
+			JvmTypeReference eventType, String bodyMethodName) {
+		it.append(this._typeReferenceBuilder.typeRef(BehaviorUnitCollector.class).getType());
+		it.append(".add("); //$NON-NLS-1$
+		it.append(RUNNABLE_COLLECTION);
+		it.append(", this, "); //$NON-NLS-1$
+		it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
+		it.append(", ("); //$NON-NLS-1$
+		it.append(RECEIVER_PARAMETER);
+		it.append(", "); //$NON-NLS-1$
+		it.append(OCCURRENCE_PARAMETER);
+		it.append(") -> (("); //$NON-NLS-1$
+		it.append(container);
+		it.append(") "); //$NON-NLS-1$
+		it.append(RECEIVER_PARAMETER);
+		it.append(")."); //$NON-NLS-1$
+		it.append(bodyMethodName);
+		it.append("(("); //$NON-NLS-1$
+		it.append(eventType.getType());
+		it.append(") "); //$NON-NLS-1$
+		it.append(OCCURRENCE_PARAMETER);
+		it.append("));"); //$NON-NLS-1$
+	}
+
 	/** Append the @FunctionalInterface to the given type if it is a functional interface according
 	 * to the Java 8 specification definition.
 	 *
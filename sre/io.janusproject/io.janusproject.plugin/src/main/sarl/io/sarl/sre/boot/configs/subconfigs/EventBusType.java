@@ -37,12 +37,19 @@ import com.google.common.base.Strings;
 public enum EventBusType {
 
 	/** The event bus is used the reflection method to have access to the event handlers.
+	 * The guard evaluation method that is generated by the SARL compiler is used for the
+	 * listeners that provide it; the reflection method is used for the other listeners.
 	 */
 	REFLECT,
 
 	/** The event bus is used the polymorphic-call method to have access to the event handlers.
 	 */
-	POLYMORPHIC;
+	POLYMORPHIC,
+
+	/** The event bus is used the reflection method to discover the event handlers, and
+	 * method handles to invoke them.
+	 */
+	METHOD_HANDLE;
 
 	/** Parse the given case insensitive string for obtaining the type.
 	 *
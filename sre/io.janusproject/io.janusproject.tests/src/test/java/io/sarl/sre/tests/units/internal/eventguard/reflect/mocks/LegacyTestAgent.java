@@ -0,0 +1,53 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.tests.units.internal.eventguard.reflect.mocks;
+
+import io.sarl.lang.annotation.PerceptGuardEvaluator;
+import io.sarl.lang.core.Agent;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/** Agent that is declaring its guard evaluators as the SARL compiler did before the generation
+ * of the {@code $evaluateBehaviorGuards} method.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+public class LegacyTestAgent extends Agent {
+
+	public LegacyTestAgent(UUID parentID, UUID agentID) {
+		super(parentID, agentID);
+	}
+
+	@PerceptGuardEvaluator
+	private void $guardEvaluator$TestEvent0(TestEvent0 occurrence, Collection<Runnable> ___SARLlocal_runnableCollection) {
+		___SARLlocal_runnableCollection.add(() -> $behaviorUnit$TestEvent0$0(occurrence));
+	}
+
+	private void $behaviorUnit$TestEvent0$0(TestEvent0 occurrence) {
+		//
+	}
+
+}
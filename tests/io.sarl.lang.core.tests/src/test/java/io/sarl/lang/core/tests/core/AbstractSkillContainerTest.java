@@ -521,6 +521,84 @@ public class AbstractSkillContainerTest extends AbstractSarlTest {
 		});
 	}
 
+	@Test
+	public void getSkill_cachedThenReplaced() throws Exception {
+		Skill1 s0 = new Skill1();
+		this.container.setSkill_Fake(s0, Capacity1.class);
+		AtomicSkillReference ref0 = this.container.$getSkill(Capacity1.class);
+		assertSame(s0, ref0.get());
+		//
+		Skill4 s1 = new Skill4();
+		this.container.setSkill_Fake(s1, Capacity1.class);
+		AtomicSkillReference ref1 = this.container.$getSkill(Capacity1.class);
+		assertSame(s1, ref1.get());
+		assertSame(s1, this.container.getSkill_Fake(Capacity1.class));
+	}
+
+	@Test
+	public void getSkill_cachedThenCleared() throws Exception {
+		this.container.setSkill_Fake(new Skill1(), Capacity1.class);
+		assertSkill(Capacity1.class);
+		//
+		this.container.clearSkill(Capacity1.class);
+		assertException(UnimplementedCapacityException.class, () -> {
+			this.container.$getSkill(Capacity1.class);
+		});
+	}
+
+	@Test
+	public void getSkill_concurrentAccess() throws Exception {
+		final Skill4 s = new Skill4();
+		this.container.setSkill_Fake(s);
+		final int nbThreads = 8;
+		final AtomicInteger failures = new AtomicInteger();
+		final Thread[] threads = new Thread[nbThreads];
+		for (int i = 0; i < nbThreads; ++i) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 10000; ++j) {
+					if (this.container.getSkill_Fake(Capacity1.class) != s
+							|| this.container.getSkill_Fake(Capacity2.class) != s) {
+						failures.incrementAndGet();
+					}
+				}
+			});
+			threads[i].start();
+		}
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, failures.get());
+	}
+
+	@Test
+	public void getSkill_concurrentClear() throws Exception {
+		final Skill4 s = new Skill4();
+		this.container.setSkill_Fake(s);
+		final int nbThreads = 8;
+		final AtomicInteger failures = new AtomicInteger();
+		final Thread[] threads = new Thread[nbThreads];
+		for (int i = 0; i < nbThreads; ++i) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 10000; ++j) {
+					if (this.container.getSkill_Fake(Capacity2.class) != s) {
+						failures.incrementAndGet();
+					}
+				}
+			});
+			threads[i].start();
+		}
+		this.container.clearSkill(Capacity1.class);
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, failures.get());
+		// The removal must not be undone by the concurrent updates of the cache
+		assertException(UnimplementedCapacityException.class, () -> {
+			this.container.$getSkill(Capacity1.class);
+		});
+		assertSame(s, this.container.getSkill_Fake(Capacity2.class));
+	}
+
 	/** Only for making public several protected methods.
 	 *
 	 * @author $Author: sgalland$
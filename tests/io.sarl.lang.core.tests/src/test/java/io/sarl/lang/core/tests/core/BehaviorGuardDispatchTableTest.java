@@ -0,0 +1,125 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core.tests.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.core.BehaviorGuardDispatchTable;
+import io.sarl.lang.core.Event;
+import io.sarl.tests.api.AbstractSarlTest;
+import io.sarl.tests.api.Nullable;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+@DisplayName("BehaviorGuardDispatchTable")
+@Tag("unit")
+@Tag("core")
+public class BehaviorGuardDispatchTableTest extends AbstractSarlTest {
+
+	@Nullable
+	private BehaviorGuardDispatchTable table;
+
+	@BeforeEach
+	public void setUp() {
+		this.table = new BehaviorGuardDispatchTable(Event.class, Event1.class, Event2.class, Event3.class);
+	}
+
+	@Test
+	public void size() {
+		assertEquals(4, this.table.size());
+	}
+
+	@Test
+	public void getEventTypeIndexes_null() {
+		assertArrayEquals(new int[0], this.table.getEventTypeIndexes(null));
+	}
+
+	@Test
+	public void getEventTypeIndexes_noEvent() {
+		assertArrayEquals(new int[0], this.table.getEventTypeIndexes(new Object()));
+	}
+
+	@Test
+	public void getEventTypeIndexes_rootEvent() {
+		assertArrayEquals(new int[] {0}, this.table.getEventTypeIndexes(new Event() {}));
+	}
+
+	@Test
+	public void getEventTypeIndexes_event1() {
+		assertArrayEquals(new int[] {0, 1}, this.table.getEventTypeIndexes(new Event1()));
+	}
+
+	@Test
+	public void getEventTypeIndexes_event2() {
+		assertArrayEquals(new int[] {0, 1, 2}, this.table.getEventTypeIndexes(new Event2()));
+	}
+
+	@Test
+	public void getEventTypeIndexes_event3() {
+		assertArrayEquals(new int[] {0, 3}, this.table.getEventTypeIndexes(new Event3()));
+	}
+
+	@Test
+	public void getEventTypeIndexes_cached() {
+		final int[] indexes = this.table.getEventTypeIndexes(new Event2());
+		assertSame(indexes, this.table.getEventTypeIndexes(new Event2()));
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class Event1 extends Event {
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class Event2 extends Event1 {
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class Event3 extends Event {
+	}
+
+}
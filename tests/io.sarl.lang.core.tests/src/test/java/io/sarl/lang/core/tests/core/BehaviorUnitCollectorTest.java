@@ -0,0 +1,108 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core.tests.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.core.BehaviorUnitCollector;
+import io.sarl.lang.core.BehaviorUnitHandler;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+@DisplayName("BehaviorUnitCollector")
+@Tag("unit")
+@Tag("core")
+public class BehaviorUnitCollectorTest extends AbstractSarlTest {
+
+	@Test
+	public void add_standardCollection() {
+		final List<Object> calls = new ArrayList<>();
+		final BehaviorUnitHandler handler = (receiver, occurrence) -> {
+			calls.add(receiver);
+			calls.add(occurrence);
+		};
+		final List<Runnable> callbacks = new ArrayList<>();
+		final Object receiver = new Object();
+		final Object occurrence = new Object();
+
+		BehaviorUnitCollector.add(callbacks, receiver, occurrence, handler);
+
+		assertEquals(1, callbacks.size());
+		assertEquals(0, calls.size());
+		callbacks.get(0).run();
+		assertEquals(2, calls.size());
+		assertSame(receiver, calls.get(0));
+		assertSame(occurrence, calls.get(1));
+	}
+
+	@Test
+	public void add_collector() {
+		final BehaviorUnitHandler handler = (receiver, occurrence) -> { };
+		final Collector callbacks = new Collector();
+		final Object receiver = new Object();
+		final Object occurrence = new Object();
+
+		BehaviorUnitCollector.add(callbacks, receiver, occurrence, handler);
+
+		assertEquals(0, callbacks.size());
+		assertSame(receiver, callbacks.receiver);
+		assertSame(occurrence, callbacks.occurrence);
+		assertSame(handler, callbacks.handler);
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class Collector extends ArrayList<Runnable> implements BehaviorUnitCollector {
+
+		Object receiver;
+
+		Object occurrence;
+
+		BehaviorUnitHandler handler;
+
+		@Override
+		public void addBehaviorUnit(Object receiver, Object occurrence, BehaviorUnitHandler handler) {
+			this.receiver = receiver;
+			this.occurrence = occurrence;
+			this.handler = handler;
+		}
+
+	}
+
+}
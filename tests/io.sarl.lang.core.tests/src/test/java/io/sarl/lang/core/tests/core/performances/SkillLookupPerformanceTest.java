@@ -0,0 +1,230 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core.tests.core.performances;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.StringWriter;
+import java.util.Collection;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.shadow.com.univocity.parsers.csv.CsvWriter;
+import org.junit.jupiter.params.shadow.com.univocity.parsers.csv.CsvWriterSettings;
+
+import io.sarl.lang.core.AtomicSkillReference;
+import io.sarl.lang.core.Capacity;
+import io.sarl.lang.core.SREutils;
+import io.sarl.lang.core.Skill;
+import io.sarl.lang.core.tests.core.AbstractSkillContainerTest.AbstractSkillContainerMock;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/**
+ * Measure the latency of the retrieval of a skill from a skill container.
+ *
+ * <p>The "cache" method is the retrieval with {@code $getSkill}, that is using the skill cache of the container.
+ * The "repository" method is the retrieval from the skill repository of the container, as
+ * {@code $getSkill} did before the introduction of the skill cache.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+@DisplayName("measure performances of skill retrieval")
+@Tag("unit")
+@Tag("core")
+@Disabled
+public class SkillLookupPerformanceTest extends AbstractSarlTest {
+
+	private static final int NB_LOOKUPS = 1000000;
+
+	private static final ConcurrentHashMap<Integer, ConcurrentLinkedQueue<Double>> cacheData = new ConcurrentHashMap<>();
+
+	private static final ConcurrentHashMap<Integer, ConcurrentLinkedQueue<Double>> repositoryData = new ConcurrentHashMap<>();
+
+	private static final Class<? extends Capacity>[] CAPACITIES = new Class[] {
+		Capacity1.class, Capacity2.class, Capacity3.class, Capacity4.class,
+	};
+
+	private static void stats(CsvWriter writer, Collection<Double> dataList, String method, int nbCapacities) {
+		double sum = 0.0;
+		for (final Double data : dataList) {
+			sum += data.doubleValue();
+		}
+		final double average = sum / dataList.size();
+		final double sqAverage = average * average;
+		sum = 0.0;
+		for (final Double data : dataList) {
+			sum += (data.doubleValue() * data.doubleValue()) - sqAverage;
+		}
+		final double variance = sum / dataList.size();
+		final double deviation = Math.sqrt(variance);
+		writer.writeRow(
+				method,
+				nbCapacities,
+				average,
+				variance,
+				deviation);
+		writer.flush();
+	}
+
+	@AfterAll
+	public static void shutdownTests() {
+		final StringWriter output = new StringWriter();
+		final CsvWriter writer = new CsvWriter(output, new CsvWriterSettings());
+		try {
+			writer.writeHeaders("Method", "# Capacities", "Average (ns)", "Var. (ns)", "Deviation (ns)");
+			for (final Entry<Integer, ConcurrentLinkedQueue<Double>> entry : cacheData.entrySet()) {
+				stats(writer, entry.getValue(), "cache", entry.getKey().intValue());
+			}
+			for (final Entry<Integer, ConcurrentLinkedQueue<Double>> entry : repositoryData.entrySet()) {
+				stats(writer, entry.getValue(), "repository", entry.getKey().intValue());
+			}
+		} finally {
+			writer.close();
+		}
+		System.out.println(output.toString());
+	}
+
+	private static AbstractSkillContainerMock createContainer(Skill skill) {
+		final AbstractSkillContainerMock container = new AbstractSkillContainerMock(UUID.randomUUID());
+		container.setSkill_Fake(skill);
+		return container;
+	}
+
+	private static void runTest(int nbCapacities, boolean useCache,
+			ConcurrentHashMap<Integer, ConcurrentLinkedQueue<Double>> dataSet) {
+		final Skill skill = new Skill1();
+		final AbstractSkillContainerMock container = createContainer(skill);
+		final ConcurrentMap<Class<? extends Capacity>, AtomicSkillReference> repository = SREutils.getSkillRepository(container);
+
+		// Warm up
+		for (int i = 0; i < nbCapacities; ++i) {
+			assertSame(skill, container.$getSkill(CAPACITIES[i]).get());
+		}
+
+		Skill last = null;
+		final long startTime = System.nanoTime();
+		for (int i = 0; i < NB_LOOKUPS; ++i) {
+			final Class<? extends Capacity> capacity = CAPACITIES[i % nbCapacities];
+			if (useCache) {
+				last = container.$getSkill(capacity).get();
+			} else {
+				last = repository.get(capacity).get();
+			}
+		}
+		final long endTime = System.nanoTime();
+
+		assertSame(skill, last);
+
+		final double duration = Math.max(0.0, endTime - startTime) / NB_LOOKUPS;
+		final ConcurrentLinkedQueue<Double> rawData = dataSet.computeIfAbsent(Integer.valueOf(nbCapacities),
+				it -> new ConcurrentLinkedQueue<>());
+		rawData.add(Double.valueOf(duration));
+	}
+
+	@RepeatedTest(10)
+	@DisplayName("Cache lookup of 1 capacity")
+	public void cache1() {
+		runTest(1, true, cacheData);
+	}
+
+	@RepeatedTest(10)
+	@DisplayName("Repository lookup of 1 capacity")
+	public void repository1() {
+		runTest(1, false, repositoryData);
+	}
+
+	@RepeatedTest(10)
+	@DisplayName("Cache lookup of 4 capacities")
+	public void cache4() {
+		runTest(4, true, cacheData);
+	}
+
+	@RepeatedTest(10)
+	@DisplayName("Repository lookup of 4 capacities")
+	public void repository4() {
+		runTest(4, false, repositoryData);
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static interface Capacity1 extends Capacity {
+		//
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static interface Capacity2 extends Capacity {
+		//
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static interface Capacity3 extends Capacity {
+		//
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static interface Capacity4 extends Capacity {
+		//
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class Skill1 extends Skill implements Capacity1, Capacity2, Capacity3, Capacity4 {
+		public Skill1() {
+			//
+		}
+	}
+
+}
@@ -64,6 +64,7 @@ public class Bug553Test extends AbstractSarlTest {
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitCollector;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
@@ -87,7 +88,7 @@ public class Bug553Test extends AbstractSarlTest {
 			"  private void $guardEvaluator$MyEvent(final MyEvent occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
-			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$MyEvent$0(occurrence));",
+			"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((TestAgent) ___SARLlocal_receiver).$behaviorUnit$MyEvent$0((MyEvent) ___SARLlocal_occurrence));",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -71,6 +71,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitCollector;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
@@ -92,7 +93,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
-			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
+			"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((SomeAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$0((Initialize) ___SARLlocal_occurrence));",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -150,6 +151,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitCollector;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
@@ -172,7 +174,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
-			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
+			"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((SomeAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$0((Initialize) ___SARLlocal_occurrence));",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -230,6 +232,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitCollector;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
@@ -251,7 +254,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
-			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
+			"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((SomeAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$0((Initialize) ___SARLlocal_occurrence));",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
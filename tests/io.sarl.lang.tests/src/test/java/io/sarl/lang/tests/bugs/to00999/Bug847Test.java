@@ -75,6 +75,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.AtomicSkillReference;",
+			"import io.sarl.lang.core.BehaviorUnitCollector;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
@@ -114,7 +115,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"  private void $guardEvaluator$AgentSpawned(final AgentSpawned occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
-			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$AgentSpawned$0(occurrence));",
+			"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((SomeAgent) ___SARLlocal_receiver).$behaviorUnit$AgentSpawned$0((AgentSpawned) ___SARLlocal_occurrence));",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -197,6 +198,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.AtomicSkillReference;",
+			"import io.sarl.lang.core.BehaviorUnitCollector;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
@@ -237,7 +239,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"  private void $guardEvaluator$AgentSpawned(final AgentSpawned occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
-			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$AgentSpawned$0(occurrence));",
+			"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((SomeAgent) ___SARLlocal_receiver).$behaviorUnit$AgentSpawned$0((AgentSpawned) ___SARLlocal_occurrence));",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
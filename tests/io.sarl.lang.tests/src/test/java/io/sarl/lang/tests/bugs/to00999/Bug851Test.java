@@ -79,6 +79,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitCollector;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
@@ -107,7 +108,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"  private void $guardEvaluator$CarArrivedPercept(final CarArrivedPercept occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
-			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarArrivedPercept$0(occurrence));",
+			"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((SomeAgent) ___SARLlocal_receiver).$behaviorUnit$CarArrivedPercept$0((CarArrivedPercept) ___SARLlocal_occurrence));",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -189,6 +190,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitCollector;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
@@ -222,7 +224,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"  private void $guardEvaluator$CarArrivedPercept(final CarArrivedPercept occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
-			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarArrivedPercept$0(occurrence));",
+			"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((SomeAgent) ___SARLlocal_receiver).$behaviorUnit$CarArrivedPercept$0((CarArrivedPercept) ___SARLlocal_occurrence));",
 			"  }",
 			"  ",
 			"  @SyntheticMember",
@@ -77,6 +77,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"import io.sarl.lang.annotation.SyntheticMember;",
 		"import io.sarl.lang.core.Agent;",
 		"import io.sarl.lang.core.AtomicSkillReference;",
+		"import io.sarl.lang.core.BehaviorUnitCollector;",
 		"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 		"import io.sarl.lang.core.DynamicSkillProvider;",
 		"import io.sarl.lang.core.Event;",
@@ -161,7 +162,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 		"    assert occurrence != null;",
 		"    assert ___SARLlocal_runnableCollection != null;",
-		"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
+		"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((BootAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$0((Initialize) ___SARLlocal_occurrence));",
 		"  }",
 		"  ",
 		"  @SyntheticMember",
@@ -169,7 +170,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"  private void $guardEvaluator$CommitSuicide(final CommitSuicide occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 		"    assert occurrence != null;",
 		"    assert ___SARLlocal_runnableCollection != null;",
-		"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CommitSuicide$2(occurrence));",
+		"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((BootAgent) ___SARLlocal_receiver).$behaviorUnit$CommitSuicide$2((CommitSuicide) ___SARLlocal_occurrence));",
 		"  }",
 		"  ",
 		"  @SyntheticMember",
@@ -177,7 +178,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"  private void $guardEvaluator$Initialized(final Initialized occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 		"    assert occurrence != null;",
 		"    assert ___SARLlocal_runnableCollection != null;",
-		"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialized$1(occurrence));",
+		"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((BootAgent) ___SARLlocal_receiver).$behaviorUnit$Initialized$1((Initialized) ___SARLlocal_occurrence));",
 		"  }",
 		"  ",
 		"  @SyntheticMember",
@@ -243,6 +244,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"import io.sarl.lang.core.Address;",
 		"import io.sarl.lang.core.Agent;",
 		"import io.sarl.lang.core.AtomicSkillReference;",
+		"import io.sarl.lang.core.BehaviorUnitCollector;",
 		"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 		"import io.sarl.lang.core.DynamicSkillProvider;",
 		"import io.sarl.lang.core.Event;",
@@ -347,7 +349,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 		"    assert occurrence != null;",
 		"    assert ___SARLlocal_runnableCollection != null;",
-		"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
+		"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((EmptyAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$0((Initialize) ___SARLlocal_occurrence));",
 		"  }",
 		"  ",
 		"  @SyntheticMember",
@@ -355,7 +357,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"  private void $guardEvaluator$CommitSuicide(final CommitSuicide occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 		"    assert occurrence != null;",
 		"    assert ___SARLlocal_runnableCollection != null;",
-		"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CommitSuicide$1(occurrence));",
+		"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((EmptyAgent) ___SARLlocal_receiver).$behaviorUnit$CommitSuicide$1((CommitSuicide) ___SARLlocal_occurrence));",
 		"  }",
 		"  ",
 		"  @SyntheticMember",
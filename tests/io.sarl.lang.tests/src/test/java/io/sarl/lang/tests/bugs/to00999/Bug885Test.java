@@ -1988,6 +1988,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"import io.sarl.lang.core.Address;",
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.AtomicSkillReference;",
+			"import io.sarl.lang.core.BehaviorUnitCollector;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
@@ -2061,7 +2062,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"    assert occurrence != null;",
 			"    assert ___SARLlocal_runnableCollection != null;",
 			"    if ($behaviorUnitGuard$MyEvent$0(occurrence, occurrence)) {",
-			"      ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$MyEvent$0(occurrence));",
+			"      BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$MyEvent$0((MyEvent) ___SARLlocal_occurrence));",
 			"    }",
 			"  }",
 			"  ",
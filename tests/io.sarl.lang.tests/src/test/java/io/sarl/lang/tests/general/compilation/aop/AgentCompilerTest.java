@@ -118,6 +118,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitCollector;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
@@ -139,7 +140,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  private void $guardEvaluator$E1(final E1 occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
-				"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$E1$0(occurrence));",
+				"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((A1) ___SARLlocal_receiver).$behaviorUnit$E1$0((E1) ___SARLlocal_occurrence));",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -343,6 +344,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitCollector;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
@@ -372,7 +374,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
 				"    if ($behaviorUnitGuard$E1$0(occurrence, occurrence)) {",
-				"      ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$E1$0(occurrence));",
+				"      BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((A1) ___SARLlocal_receiver).$behaviorUnit$E1$0((E1) ___SARLlocal_occurrence));",
 				"    }",
 				"  }",
 				"  ",
@@ -2467,6 +2469,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitCollector;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
@@ -2510,10 +2513,10 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
 				"    if ($behaviorUnitGuard$Initialize$0(occurrence, occurrence)) {",
-				"      ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
+				"      BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$0((Initialize) ___SARLlocal_occurrence));",
 				"    }",
 				"    if ($behaviorUnitGuard$Initialize$1(occurrence, occurrence)) {",
-				"      ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$1(occurrence));",
+				"      BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$1((Initialize) ___SARLlocal_occurrence));",
 				"    }",
 				"  }",
 				"  ",
@@ -2579,6 +2582,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitCollector;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
@@ -2602,7 +2606,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  private void $guardEvaluator$Destroy(final Destroy occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
-				"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Destroy$1(occurrence));",
+				"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Destroy$1((Destroy) ___SARLlocal_occurrence));",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -2610,7 +2614,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
-				"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
+				"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$0((Initialize) ___SARLlocal_occurrence));",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -2658,6 +2662,160 @@ public class AgentCompilerTest extends AbstractSarlTest {
 		getCompileHelper().compile(source, (r) -> assertEquals(expectedMyAgent, r.getGeneratedCode("foo.test.MyAgent")));
 	}
 
+	@Test
+	public void multipleEventsWithDispatchTable() throws Exception {
+		final String source = multilineString(
+				"package foo.test",
+				"event E1",
+				"event E2",
+				"event E3",
+				"event E4",
+				"agent MyAgent {",
+				"	on E1 {",
+				"	}",
+				"	on E2 {",
+				"	}",
+				"	on E3 {",
+				"	}",
+				"	on E4 {",
+				"	}",
+				"}");
+		final String expectedMyAgent = multilineString(
+				"package foo.test;",
+				"",
+				"import foo.test.E1;",
+				"import foo.test.E2;",
+				"import foo.test.E3;",
+				"import foo.test.E4;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.SarlElementType;",
+				"import io.sarl.lang.annotation.SarlSpecification;",
+				"import io.sarl.lang.annotation.SyntheticMember;",
+				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorGuardDispatchTable;",
+				"import io.sarl.lang.core.BehaviorUnitCollector;",
+				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
+				"import io.sarl.lang.core.DynamicSkillProvider;",
+				"import io.sarl.lang.core.Event;",
+				"import java.util.Collection;",
+				"import java.util.Set;",
+				"import java.util.UUID;",
+				"import javax.inject.Inject;",
+				"",
+				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
+				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@SuppressWarnings(\"all\")",
+				"public class MyAgent extends Agent {",
+				"  private void $behaviorUnit$E1$0(final E1 occurrence) {",
+				"  }",
+				"  ",
+				"  private void $behaviorUnit$E2$1(final E2 occurrence) {",
+				"  }",
+				"  ",
+				"  private void $behaviorUnit$E3$2(final E3 occurrence) {",
+				"  }",
+				"  ",
+				"  private void $behaviorUnit$E4$3(final E4 occurrence) {",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @PerceptGuardEvaluator",
+				"  private void $guardEvaluator$E4(final E4 occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
+				"    assert occurrence != null;",
+				"    assert ___SARLlocal_runnableCollection != null;",
+				"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$E4$3((E4) ___SARLlocal_occurrence));",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @PerceptGuardEvaluator",
+				"  private void $guardEvaluator$E3(final E3 occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
+				"    assert occurrence != null;",
+				"    assert ___SARLlocal_runnableCollection != null;",
+				"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$E3$2((E3) ___SARLlocal_occurrence));",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @PerceptGuardEvaluator",
+				"  private void $guardEvaluator$E2(final E2 occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
+				"    assert occurrence != null;",
+				"    assert ___SARLlocal_runnableCollection != null;",
+				"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$E2$1((E2) ___SARLlocal_occurrence));",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @PerceptGuardEvaluator",
+				"  private void $guardEvaluator$E1(final E1 occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
+				"    assert occurrence != null;",
+				"    assert ___SARLlocal_runnableCollection != null;",
+				"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$E1$0((E1) ___SARLlocal_occurrence));",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @Override",
+				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+				"    super.$getSupportedEvents(toBeFilled);",
+				"    toBeFilled.add(E1.class);",
+				"    toBeFilled.add(E2.class);",
+				"    toBeFilled.add(E3.class);",
+				"    toBeFilled.add(E4.class);",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  private static final BehaviorGuardDispatchTable $GUARD_DISPATCH_TABLE = new BehaviorGuardDispatchTable(E1.class, E2.class, E3.class, E4.class);",
+				"  ",
+				"  @SyntheticMember",
+				"  @Override",
+				"  public void $evaluateBehaviorGuards(final Object event, final Collection<Runnable> callbacks) {",
+				"    super.$evaluateBehaviorGuards(event, callbacks);",
+				"    for (final int index : $GUARD_DISPATCH_TABLE.getEventTypeIndexes(event)) {",
+				"      switch (index) {",
+				"        case 0: {",
+				"          final E1 occurrence = (E1) event;",
+				"          $guardEvaluator$E1(occurrence, callbacks);",
+				"          break;",
+				"        }",
+				"        case 1: {",
+				"          final E2 occurrence = (E2) event;",
+				"          $guardEvaluator$E2(occurrence, callbacks);",
+				"          break;",
+				"        }",
+				"        case 2: {",
+				"          final E3 occurrence = (E3) event;",
+				"          $guardEvaluator$E3(occurrence, callbacks);",
+				"          break;",
+				"        }",
+				"        case 3: {",
+				"          final E4 occurrence = (E4) event;",
+				"          $guardEvaluator$E4(occurrence, callbacks);",
+				"          break;",
+				"        }",
+				"      }",
+				"    }",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  public MyAgent(final UUID arg0, final UUID arg1) {",
+				"    super(arg0, arg1);",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @Deprecated",
+				"  @Inject",
+				"  public MyAgent(final BuiltinCapacitiesProvider arg0, final UUID arg1, final UUID arg2) {",
+				"    super(arg0, arg1, arg2);",
+				"  }",
+				"  ",
+				"  @SyntheticMember",
+				"  @Inject",
+				"  public MyAgent(final UUID arg0, final UUID arg1, final DynamicSkillProvider arg2) {",
+				"    super(arg0, arg1, arg2);",
+				"  }",
+				"}",
+				""
+				);
+		getCompileHelper().compile(source, (r) -> assertEquals(expectedMyAgent, r.getGeneratedCode("foo.test.MyAgent")));
+	}
+
 	@Test
 	public void multipleEventsWithoutUses_sameEventMultipleTimes() throws Exception {
 		final String source = multilineString(
@@ -2684,6 +2842,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitCollector;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
@@ -2713,7 +2872,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  private void $guardEvaluator$Destroy(final Destroy occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
-				"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Destroy$1(occurrence));",
+				"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Destroy$1((Destroy) ___SARLlocal_occurrence));",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -2721,8 +2880,8 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
-				"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
-				"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$2(occurrence));",
+				"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$0((Initialize) ___SARLlocal_occurrence));",
+				"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$2((Initialize) ___SARLlocal_occurrence));",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -2797,6 +2956,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitCollector;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
@@ -2841,7 +3001,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  private void $guardEvaluator$Destroy(final Destroy occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
-				"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Destroy$1(occurrence));",
+				"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Destroy$1((Destroy) ___SARLlocal_occurrence));",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -2850,10 +3010,10 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
 				"    if ($behaviorUnitGuard$Initialize$0(occurrence, occurrence)) {",
-				"      ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
+				"      BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$0((Initialize) ___SARLlocal_occurrence));",
 				"    }",
 				"    if ($behaviorUnitGuard$Initialize$2(occurrence, occurrence)) {",
-				"      ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$2(occurrence));",
+				"      BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$2((Initialize) ___SARLlocal_occurrence));",
 				"    }",
 				"  }",
 				"  ",
@@ -2959,6 +3119,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
+				"import io.sarl.lang.core.BehaviorUnitCollector;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
@@ -3014,9 +3175,9 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  private void $guardEvaluator$Destroy(final Destroy occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
-				"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Destroy$1(occurrence));",
+				"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Destroy$1((Destroy) ___SARLlocal_occurrence));",
 				"    if ($behaviorUnitGuard$Destroy$2(occurrence, occurrence)) {",
-				"      ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Destroy$2(occurrence));",
+				"      BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Destroy$2((Destroy) ___SARLlocal_occurrence));",
 				"    }",
 				"  }",
 				"  ",
@@ -3026,10 +3187,10 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
 				"    if ($behaviorUnitGuard$Initialize$0(occurrence, occurrence)) {",
-				"      ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
+				"      BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$0((Initialize) ___SARLlocal_occurrence));",
 				"    }",
 				"    if ($behaviorUnitGuard$Initialize$3(occurrence, occurrence)) {",
-				"      ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$3(occurrence));",
+				"      BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$3((Initialize) ___SARLlocal_occurrence));",
 				"    }",
 				"  }",
 				"  ",
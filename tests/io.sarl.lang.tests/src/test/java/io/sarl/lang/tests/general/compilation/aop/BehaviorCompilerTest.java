@@ -102,6 +102,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.Behavior;",
+				"import io.sarl.lang.core.BehaviorUnitCollector;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -119,7 +120,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"  private void $guardEvaluator$E1(final E1 occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
-				"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$E1$0(occurrence));",
+				"    BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((B1) ___SARLlocal_receiver).$behaviorUnit$E1$0((E1) ___SARLlocal_occurrence));",
 				"  }",
 				"  ",
 				"  @SyntheticMember",
@@ -295,6 +296,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.Behavior;",
+				"import io.sarl.lang.core.BehaviorUnitCollector;",
 				"import io.sarl.lang.core.Event;",
 				"import java.util.Collection;",
 				"import java.util.Set;",
@@ -320,7 +322,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"    assert occurrence != null;",
 				"    assert ___SARLlocal_runnableCollection != null;",
 				"    if ($behaviorUnitGuard$E1$0(occurrence, occurrence)) {",
-				"      ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$E1$0(occurrence));",
+				"      BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((B1) ___SARLlocal_receiver).$behaviorUnit$E1$0((E1) ___SARLlocal_occurrence));",
 				"    }",
 				"  }",
 				"  ",
@@ -66,6 +66,7 @@ public class Bug465Test extends AbstractMojoTest {
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.AtomicSkillReference;",
+				"import io.sarl.lang.core.BehaviorUnitCollector;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
 				"import io.sarl.lang.core.Event;",
@@ -120,7 +121,7 @@ public class Bug465Test extends AbstractMojoTest {
 				"private void $guardEvaluator$Initialize(final Initialize occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 				"assert occurrence != null;",
 				"assert ___SARLlocal_runnableCollection != null;",
-				"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
+				"BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((MyAgent) ___SARLlocal_receiver).$behaviorUnit$Initialize$0((Initialize) ___SARLlocal_occurrence));",
 				"}",
 				"@SyntheticMember",
 				"@Override",
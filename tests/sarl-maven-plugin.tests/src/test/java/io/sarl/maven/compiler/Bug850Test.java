@@ -64,6 +64,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitCollector;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
@@ -86,7 +87,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"private void $guardEvaluator$CarRequestPercept(final CarRequestPercept occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"assert occurrence != null;",
 			"assert ___SARLlocal_runnableCollection != null;",
-			"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarRequestPercept$0(occurrence));",
+			"BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((Agent1) ___SARLlocal_receiver).$behaviorUnit$CarRequestPercept$0((CarRequestPercept) ___SARLlocal_occurrence));",
 			"}",
 			"@SyntheticMember",
 			"@Override",
@@ -139,6 +140,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitCollector;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
@@ -163,7 +165,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"private void $guardEvaluator$CarRequestPercept(final CarRequestPercept occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"assert occurrence != null;",
 			"assert ___SARLlocal_runnableCollection != null;",
-			"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarRequestPercept$0(occurrence));",
+			"BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((Agent2) ___SARLlocal_receiver).$behaviorUnit$CarRequestPercept$0((CarRequestPercept) ___SARLlocal_occurrence));",
 			"}",
 			"@SyntheticMember",
 			"@Override",
@@ -217,6 +219,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitCollector;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
@@ -239,7 +242,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"private void $guardEvaluator$CarRequestPercept(final CarRequestPercept occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"assert occurrence != null;",
 			"assert ___SARLlocal_runnableCollection != null;",
-			"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarRequestPercept$0(occurrence));",
+			"BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((Agent3) ___SARLlocal_receiver).$behaviorUnit$CarRequestPercept$0((CarRequestPercept) ___SARLlocal_occurrence));",
 			"}",
 			"@SyntheticMember",
 			"@Override",
@@ -292,6 +295,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
 			"import io.sarl.lang.core.Agent;",
+			"import io.sarl.lang.core.BehaviorUnitCollector;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
 			"import io.sarl.lang.core.Event;",
@@ -315,7 +319,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"private void $guardEvaluator$CarRequestPercept(final CarRequestPercept occurrence, final Collection<Runnable> ___SARLlocal_runnableCollection) {",
 			"assert occurrence != null;",
 			"assert ___SARLlocal_runnableCollection != null;",
-			"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarRequestPercept$0(occurrence));",
+			"BehaviorUnitCollector.add(___SARLlocal_runnableCollection, this, occurrence, (___SARLlocal_receiver, ___SARLlocal_occurrence) -> ((Agent4) ___SARLlocal_receiver).$behaviorUnit$CarRequestPercept$0((CarRequestPercept) ___SARLlocal_occurrence));",
 			"}",
 			"@SyntheticMember",
 			"@Override",